@@ -1,23 +1,44 @@
 package com.microsoft.mcp.sample.server;
 
+import java.util.Arrays;
+import java.util.Set;
+
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import com.microsoft.mcp.sample.server.analytics.ToolCallLog;
 import com.microsoft.mcp.sample.server.service.DestinationService;
+import com.microsoft.mcp.sample.server.tool.LoggedToolCallback;
+import com.microsoft.mcp.sample.server.tool.ToolCallTracker;
+import com.microsoft.mcp.sample.server.tool.TrackedToolCallback;
 
 @SpringBootApplication
 public class McpServerApplication {
 
+	// Tools recorded by the analytics log; echoMessage is left out as its argument is free text
+	private static final Set<String> LOGGED_TOOLS = Set.of("getDestinationsByActivity", "getDestinationsByBudget",
+			"getDestinationsBySeason", "getDestinationsByPreferences", "getAllDestinations");
+
 	public static void main(String[] args) {
 		SpringApplication.run(McpServerApplication.class, args);
 	}
-	
+
 	@Bean
-	public ToolCallbackProvider destinationTools(DestinationService destinationService) {
-		return MethodToolCallbackProvider.builder().toolObjects(destinationService).build();
+	public ToolCallbackProvider destinationTools(DestinationService destinationService, ToolCallTracker tracker,
+			ObjectProvider<ToolCallLog> toolCallLog) {
+		ToolCallbackProvider tools = MethodToolCallbackProvider.builder().toolObjects(destinationService).build();
+		ToolCallLog log = toolCallLog.getIfAvailable();
+		return ToolCallbackProvider.from(Arrays.stream(tools.getToolCallbacks())
+				.map(callback -> (ToolCallback) new TrackedToolCallback(callback, tracker))
+				.map(callback -> log != null && LOGGED_TOOLS.contains(callback.getToolDefinition().name())
+						? new LoggedToolCallback(callback, log)
+						: callback)
+				.toList());
 	}
 
 }
@@ -0,0 +1,80 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ * Producers claim a slot with a CAS on the tail and never block: when the buffer
+ * is full {@link #offer} returns false immediately. The consumer clears each slot
+ * before advancing the head, so a producer can only claim a slot once it is free.
+ */
+class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param requestedCapacity Minimum capacity, rounded up to the next power of two (at least 2)
+     */
+    MpscRingBuffer(int requestedCapacity) {
+        this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return The number of elements the buffer holds when full
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Add an element without blocking.
+     *
+     * @param element The element to add
+     * @return false if the buffer is full and the element was not added
+     */
+    boolean offer(E element) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Move up to {@code limit} elements into {@code sink}. Must only be called by the consumer thread.
+     * Stops early at a slot that has been claimed but not yet published.
+     *
+     * @return The number of elements moved
+     */
+    int drainTo(List<E> sink, int limit) {
+        long next = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (next & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            sink.add(element);
+            next++;
+            drained++;
+        }
+        head.lazySet(next);
+        return drained;
+    }
+}
@@ -0,0 +1,94 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends batches of lines to JSONL segment files, starting a new segment once
+ * the current one exceeds the size limit and deleting the oldest segments beyond
+ * the retention limit. Segment names are UTC timestamps that increase strictly
+ * within a process, so sorting by name sorts by age. Not thread-safe: used only by the drain thread.
+ */
+class RollingFileWriter implements AutoCloseable {
+
+    static final String FILE_PREFIX = "tool-calls-";
+    static final String FILE_SUFFIX = ".jsonl";
+
+    // UTC so names sort chronologically across daylight saving changes
+    private static final DateTimeFormatter SEGMENT_NAME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+
+    private OutputStream out;
+    private long currentBytes;
+    private long lastSegmentMillis;
+
+    RollingFileWriter(Path directory, long maxFileBytes, int maxFiles) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Write a batch of encoded lines and flush them.
+     */
+    void write(List<byte[]> lines) throws IOException {
+        if (out == null || currentBytes >= maxFileBytes) {
+            roll();
+        }
+        for (byte[] line : lines) {
+            out.write(line);
+            out.write('\n');
+            currentBytes += line.length + 1;
+        }
+        out.flush();
+    }
+
+    private void roll() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        // Never reuse or go back in time, even within one millisecond or if the clock steps back
+        lastSegmentMillis = Math.max(System.currentTimeMillis(), lastSegmentMillis + 1);
+        String name = SEGMENT_NAME.format(Instant.ofEpochMilli(lastSegmentMillis));
+        Path segment = directory.resolve(FILE_PREFIX + name + FILE_SUFFIX);
+        out = new BufferedOutputStream(Files.newOutputStream(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        currentBytes = Files.size(segment);
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(RollingFileWriter::isSegment).sorted().toList();
+        }
+        for (int i = 0; i < segments.size() - maxFiles; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+/**
+ * A tool call as captured on the request path, before any normalization.
+ *
+ * @param timestamp When the call completed, in epoch milliseconds
+ * @param tool The name of the tool
+ * @param input The raw JSON arguments
+ * @param result The raw result, or null if the call failed
+ * @param latencyNanos How long the call took
+ */
+record ToolCall(long timestamp, String tool, String input, String result, long latencyNanos) {
+}
@@ -0,0 +1,174 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Analytics sink recording every tool call to rolling JSONL files.
+ * <p>
+ * The request path only allocates a {@link ToolCall} and offers it to a lock-free
+ * ring buffer; when the buffer is full the call is dropped and counted rather than
+ * blocking. A background thread drains the buffer in batches, normalizes the calls
+ * and appends them to the current segment file.
+ */
+public class ToolCallLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCallLog.class);
+
+    private final MpscRingBuffer<ToolCall> buffer;
+    private final RollingFileWriter writer;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final Thread drainer;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+
+    private volatile boolean running = true;
+
+    public ToolCallLog(Path directory, int capacity, int batchSize, long maxFileBytes, int maxFiles,
+                       Duration idleWait, ObjectMapper mapper) {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.writer = new RollingFileWriter(directory, maxFileBytes, maxFiles);
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.idleWaitNanos = idleWait.toNanos();
+        this.drainer = new Thread(this::drainLoop, "tool-call-log");
+        this.drainer.setDaemon(true);
+    }
+
+    /**
+     * Start the background drain thread. Calls recorded before are kept in the buffer.
+     */
+    public void start() {
+        drainer.start();
+    }
+
+    /**
+     * Record a completed tool call. Never blocks.
+     *
+     * @param tool The name of the tool
+     * @param input The raw JSON arguments
+     * @param result The raw result, or null if the call failed
+     * @param latencyNanos How long the call took
+     */
+    public void record(String tool, String input, String result, long latencyNanos) {
+        if (buffer.offer(new ToolCall(System.currentTimeMillis(), tool, input, result, latencyNanos))) {
+            recorded.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<ToolCall> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    LockSupport.parkNanos(idleWaitNanos);
+                } else {
+                    write(batch);
+                }
+            }
+            drainRemaining(batch);
+        } finally {
+            // The writer belongs to this thread, so it is only closed once nothing can write to it
+            closeWriter();
+        }
+    }
+
+    private void drainRemaining(List<ToolCall> batch) {
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    // Never throws: whatever fails is counted as dropped so the drain thread keeps running
+    private void write(List<ToolCall> batch) {
+        List<byte[]> lines = new ArrayList<>(batch.size());
+        for (ToolCall call : batch) {
+            try {
+                lines.add(mapper.writeValueAsBytes(ToolCallRecord.from(call, mapper)));
+            } catch (JsonProcessingException e) {
+                dropped.increment();
+            } catch (RuntimeException e) {
+                dropped.increment();
+                logger.warn("Failed to serialize a call to {}", call.tool(), e);
+            }
+        }
+        try {
+            writer.write(lines);
+            written.add(lines.size());
+        } catch (IOException | RuntimeException e) {
+            dropped.add(lines.size());
+            logger.warn("Failed to write {} tool calls: {}", lines.size(), e.getMessage());
+        }
+        batch.clear();
+    }
+
+    /**
+     * @return The number of calls accepted into the buffer
+     */
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    /**
+     * @return The number of calls dropped because the buffer was full or could not be written
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return The number of calls written to disk
+     */
+    public long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Stop the drain thread after writing out everything still buffered. Waits up to 10
+     * seconds; a drain thread still busy after that closes the segment file when it is done.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (drainer.getState() == Thread.State.NEW) {
+            // Never started, so nothing else touches the buffer or writer
+            drainRemaining(new ArrayList<>(batchSize));
+            closeWriter();
+            return;
+        }
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            logger.warn("Tool call log is still writing, its segment will be closed once it is done");
+        }
+    }
+
+    private void closeWriter() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close the tool call log: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Offline command-line tool summarizing the analytics log written by {@link ToolCallLog}.
+ * <p>
+ * Reads every segment in the given directories (or the given files) and prints
+ * call counts and latency percentiles per tool, the most requested argument
+ * values and the most recommended destinations.
+ *
+ * Usage: ToolCallLogAggregator [--top N] &lt;directory-or-file&gt;...
+ */
+public class ToolCallLogAggregator {
+
+    private final Map<String, List<Long>> latenciesByTool = new TreeMap<>();
+    private final Map<String, Long> failuresByTool = new HashMap<>();
+    private final Map<String, Long> argumentCounts = new HashMap<>();
+    private final Map<String, Long> resultCounts = new HashMap<>();
+    private long malformedLines;
+
+    public static void main(String[] args) throws IOException {
+        int top = 10;
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--top") && i + 1 < args.length) {
+                top = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(Path.of(args[i]));
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("Usage: ToolCallLogAggregator [--top N] <directory-or-file>...");
+            System.exit(1);
+        }
+
+        ToolCallLogAggregator aggregator = new ToolCallLogAggregator();
+        ObjectMapper mapper = new ObjectMapper();
+        for (Path input : inputs) {
+            for (Path segment : segments(input)) {
+                aggregator.read(segment, mapper);
+            }
+        }
+        aggregator.print(top);
+    }
+
+    private static List<Path> segments(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(RollingFileWriter::isSegment).sorted().toList();
+        }
+    }
+
+    private void read(Path segment, ObjectMapper mapper) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    add(mapper.readValue(line, ToolCallRecord.class));
+                } catch (JsonProcessingException e) {
+                    // A segment can end with a partial line if the server was killed mid-write
+                    malformedLines++;
+                }
+            }
+        }
+    }
+
+    private void add(ToolCallRecord call) {
+        latenciesByTool.computeIfAbsent(call.tool(), tool -> new ArrayList<>()).add(call.latencyUs());
+        if (!call.ok()) {
+            failuresByTool.merge(call.tool(), 1L, Long::sum);
+        }
+        if (call.args() != null) {
+            call.args().forEach((name, value) -> argumentCounts.merge(name + "=" + value, 1L, Long::sum));
+        }
+        if (call.results() != null) {
+            call.results().forEach(id -> resultCounts.merge(id, 1L, Long::sum));
+        }
+    }
+
+    private void print(int top) {
+        System.out.printf("%-32s %8s %8s %10s %10s %10s%n", "Tool", "Calls", "Failed", "p50 (us)", "p95 (us)", "p99 (us)");
+        latenciesByTool.forEach((tool, latencies) -> {
+            Collections.sort(latencies);
+            System.out.printf("%-32s %8d %8d %10d %10d %10d%n", tool, latencies.size(),
+                    failuresByTool.getOrDefault(tool, 0L),
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99));
+        });
+
+        System.out.println("\nTop requested arguments:");
+        printTop(argumentCounts, top);
+
+        System.out.println("\nTop recommended destinations:");
+        printTop(resultCounts, top);
+
+        if (malformedLines > 0) {
+            System.out.println("\nSkipped " + malformedLines + " malformed line(s)");
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    private static void printTop(Map<String, Long> counts, int top) {
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(top)
+                .forEach(entry -> System.out.printf("  %-40s %8d%n", entry.getKey(), entry.getValue()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A normalized tool call, as written to the analytics log (one JSON object per line).
+ *
+ * @param ts When the call completed, in epoch milliseconds
+ * @param tool The name of the tool
+ * @param args The non-empty arguments, keys sorted and string values upper-cased
+ * @param results Ids of the destinations returned, in result order
+ * @param latencyUs How long the call took, in microseconds
+ * @param ok Whether the call completed without an exception
+ */
+public record ToolCallRecord(long ts, String tool, Map<String, Object> args, List<String> results,
+                             long latencyUs, boolean ok) {
+
+    private static final Pattern DESTINATION_LINE = Pattern.compile("📍 ([^\\n]+)");
+
+    /**
+     * Normalize a raw tool call.
+     */
+    static ToolCallRecord from(ToolCall call, ObjectMapper mapper) {
+        return new ToolCallRecord(call.timestamp(), call.tool(), normalizeArguments(call.input(), mapper),
+                resultIds(call.result(), mapper), call.latencyNanos() / 1_000, call.result() != null);
+    }
+
+    private static Map<String, Object> normalizeArguments(String input, ObjectMapper mapper) {
+        Map<String, Object> args = new TreeMap<>();
+        if (input == null || input.isBlank()) {
+            return args;
+        }
+        try {
+            JsonNode root = mapper.readTree(input);
+            if (root == null || !root.isObject()) {
+                return args;
+            }
+            root.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (value.isTextual() && !value.textValue().isBlank()) {
+                    args.put(field.getKey(), value.textValue().trim().toUpperCase(Locale.ROOT));
+                } else if (value.isBoolean()) {
+                    args.put(field.getKey(), value.booleanValue());
+                } else if (value.isNumber()) {
+                    args.put(field.getKey(), value.numberValue());
+                }
+            });
+        } catch (JsonProcessingException e) {
+            args.put("_unparsed", true);
+        }
+        return args;
+    }
+
+    // Tool results are JSON-encoded strings listing one destination per "📍 Name, Country" line
+    private static List<String> resultIds(String result, ObjectMapper mapper) {
+        List<String> ids = new ArrayList<>();
+        if (result == null) {
+            return ids;
+        }
+        String text = result;
+        try {
+            JsonNode node = mapper.readTree(result);
+            if (node != null && node.isTextual()) {
+                text = node.textValue();
+            }
+        } catch (JsonProcessingException e) {
+            // Not JSON, use the raw text
+        }
+        Matcher matcher = DESTINATION_LINE.matcher(text);
+        while (matcher.find()) {
+            ids.add(matcher.group(1).trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-"));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,128 @@
+package com.microsoft.mcp.sample.server.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+
+/**
+ * Shared cache tier speaking the Redis protocol. Works against Redis and any
+ * RESP-compatible server (e.g. a local redis-server or Valkey instance): only
+ * RESP2 is spoken, so servers without the HELLO handshake work as well.
+ * The connection is opened in the background and re-attempted after a back-off
+ * period. Until it is established every lookup is a miss, so an unreachable
+ * server only costs cache misses, never blocked or failed tool calls.
+ */
+public class RedisSharedCacheTier implements SharedCacheTier, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisSharedCacheTier.class);
+
+    private static final Duration RECONNECT_BACKOFF = Duration.ofSeconds(30);
+
+    private final RedisClient client;
+    private final RedisURI redisUri;
+    private final Duration reconnectBackoff;
+    private final AtomicBoolean connecting = new AtomicBoolean();
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile long nextConnectAttempt;
+
+    /**
+     * @param uri The URI of the server
+     * @param timeout Bounds both connecting and every command
+     */
+    public RedisSharedCacheTier(String uri, Duration timeout) {
+        this(uri, timeout, RECONNECT_BACKOFF);
+    }
+
+    RedisSharedCacheTier(String uri, Duration timeout, Duration reconnectBackoff) {
+        this.reconnectBackoff = reconnectBackoff;
+        this.redisUri = RedisURI.create(uri);
+        this.redisUri.setTimeout(timeout);
+        this.client = RedisClient.create();
+        this.client.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP2)
+                .socketOptions(SocketOptions.builder().connectTimeout(timeout).build())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+        connectInBackground();
+    }
+
+    @Override
+    public String get(String key) {
+        StatefulRedisConnection<String, String> conn = connection();
+        if (conn == null) {
+            return null;
+        }
+        try {
+            return conn.sync().get(key);
+        } catch (RedisException e) {
+            logger.debug("Shared cache lookup failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        StatefulRedisConnection<String, String> conn = connection();
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.async().setex(key, Math.max(1, ttl.toSeconds()), value);
+        } catch (RedisException e) {
+            logger.debug("Shared cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    // Never blocks: returns null and starts a background connect while no connection is established
+    private StatefulRedisConnection<String, String> connection() {
+        StatefulRedisConnection<String, String> conn = connection;
+        if (conn == null) {
+            connectInBackground();
+        }
+        return conn;
+    }
+
+    private void connectInBackground() {
+        if (System.currentTimeMillis() < nextConnectAttempt || !connecting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            client.connectAsync(StringCodec.UTF8, redisUri).whenComplete((conn, error) -> {
+                if (error == null) {
+                    connection = conn;
+                } else {
+                    connectFailed(error);
+                }
+                connecting.set(false);
+            });
+        } catch (RuntimeException e) {
+            connectFailed(e);
+            connecting.set(false);
+        }
+    }
+
+    private void connectFailed(Throwable error) {
+        nextConnectAttempt = System.currentTimeMillis() + reconnectBackoff.toMillis();
+        logger.warn("Shared cache unavailable, retrying in {}ms: {}", reconnectBackoff.toMillis(), error.getMessage());
+    }
+
+    @Override
+    public void close() {
+        StatefulRedisConnection<String, String> conn = connection;
+        if (conn != null) {
+            conn.close();
+        }
+        client.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+package com.microsoft.mcp.sample.server.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microsoft.mcp.sample.server.service.DestinationCatalog;
+
+/**
+ * Two-level cache for destination query results.
+ * <p>
+ * The first tier is an in-process Caffeine cache (W-TinyLFU eviction, bounded
+ * by size and TTL). On a local miss the optional shared tier is consulted
+ * before the result is computed, so replicas reuse each other's work. Keys are
+ * prefixed with the catalog version, which keeps entries from different
+ * catalog versions apart in the shared tier.
+ */
+public class ResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+    private static final String KEY_PREFIX = "destination:";
+
+    private final Cache<String, String> localTier;
+    private final SharedCacheTier sharedTier;
+    private final DestinationCatalog catalog;
+    private final Duration ttl;
+
+    /**
+     * @param catalog The catalog whose version scopes every key
+     * @param maximumSize Maximum number of entries held in-process
+     * @param ttl Time-to-live of an entry in both tiers
+     * @param sharedTier The shared tier, or null to run with the local tier only
+     */
+    public ResultCache(DestinationCatalog catalog, long maximumSize, Duration ttl, SharedCacheTier sharedTier) {
+        this.catalog = catalog;
+        this.ttl = ttl;
+        this.sharedTier = sharedTier;
+        this.localTier = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Return the cached result for a key, computing and storing it on a miss.
+     *
+     * @param key The query key, without catalog version
+     * @param loader Computes the result when neither tier has it
+     * @return The cached or freshly computed result
+     */
+    public String get(String key, Supplier<String> loader) {
+        String versionedKey = KEY_PREFIX + catalog.getVersion() + ":" + key;
+        return localTier.get(versionedKey, k -> loadThroughSharedTier(k, loader));
+    }
+
+    private String loadThroughSharedTier(String key, Supplier<String> loader) {
+        String shared = sharedGet(key);
+        if (shared != null) {
+            return shared;
+        }
+        String value = loader.get();
+        if (value != null) {
+            sharedPut(key, value);
+        }
+        return value;
+    }
+
+    // A misbehaving shared tier must never fail a tool call, so any error counts as a miss
+    private String sharedGet(String key) {
+        if (sharedTier == null) {
+            return null;
+        }
+        try {
+            return sharedTier.get(key);
+        } catch (RuntimeException e) {
+            logger.debug("Shared cache lookup failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void sharedPut(String key, String value) {
+        if (sharedTier == null) {
+            return;
+        }
+        try {
+            sharedTier.put(key, value, ttl);
+        } catch (RuntimeException e) {
+            logger.debug("Shared cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.microsoft.mcp.sample.server.cache;
+
+import java.time.Duration;
+
+/**
+ * Out-of-process cache tier shared by all replicas of the service.
+ * Implementations must never fail the caller: errors are treated as a miss.
+ */
+public interface SharedCacheTier {
+
+    /**
+     * Look up a cached result.
+     *
+     * @param key The fully qualified cache key
+     * @return The cached value, or null on a miss or when the tier is unavailable
+     */
+    String get(String key);
+
+    /**
+     * Store a result without waiting for the write to complete.
+     *
+     * @param key The fully qualified cache key
+     * @param value The value to store
+     * @param ttl How long the entry stays valid
+     */
+    void put(String key, String value, Duration ttl);
+}
@@ -0,0 +1,71 @@
+package com.microsoft.mcp.sample.server.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.mcp.sample.server.analytics.ToolCallLog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configuration class for the tool call analytics log.
+ */
+@Configuration
+@ConditionalOnProperty(name = "destination.analytics.enabled", havingValue = "true")
+public class AnalyticsConfig {
+
+    @Value("${destination.analytics.directory:analytics}")
+    private String directory;
+
+    @Value("${destination.analytics.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${destination.analytics.batch-size:512}")
+    private int batchSize;
+
+    @Value("${destination.analytics.max-file-size:64MB}")
+    private DataSize maxFileSize;
+
+    @Value("${destination.analytics.max-files:20}")
+    private int maxFiles;
+
+    @Value("${destination.analytics.flush-interval:1s}")
+    private Duration flushInterval;
+
+    /**
+     * Analytics sink, closed on shutdown so buffered calls are written out.
+     */
+    @Bean
+    public ToolCallLog toolCallLog(ObjectMapper objectMapper) {
+        ToolCallLog toolCallLog = new ToolCallLog(Path.of(directory), bufferCapacity, batchSize,
+                maxFileSize.toBytes(), maxFiles, flushInterval, objectMapper);
+        toolCallLog.start();
+        return toolCallLog;
+    }
+
+    /**
+     * Expose the analytics counters as metrics.
+     */
+    @Bean
+    public MeterBinder toolCallLogMetrics(ToolCallLog toolCallLog) {
+        return registry -> {
+            FunctionCounter.builder("destination.analytics.recorded", toolCallLog, ToolCallLog::getRecorded)
+                    .description("Tool calls accepted into the analytics buffer")
+                    .register(registry);
+            FunctionCounter.builder("destination.analytics.written", toolCallLog, ToolCallLog::getWritten)
+                    .description("Tool calls written to the analytics log")
+                    .register(registry);
+            FunctionCounter.builder("destination.analytics.dropped", toolCallLog, ToolCallLog::getDropped)
+                    .description("Tool calls dropped because the analytics buffer was full or unwritable")
+                    .register(registry);
+        };
+    }
+}
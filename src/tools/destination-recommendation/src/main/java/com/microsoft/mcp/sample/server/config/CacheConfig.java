@@ -0,0 +1,46 @@
+package com.microsoft.mcp.sample.server.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.microsoft.mcp.sample.server.cache.RedisSharedCacheTier;
+import com.microsoft.mcp.sample.server.cache.ResultCache;
+import com.microsoft.mcp.sample.server.cache.SharedCacheTier;
+import com.microsoft.mcp.sample.server.service.DestinationCatalog;
+
+/**
+ * Configuration class for the destination result cache.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${destination.cache.local.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${destination.cache.ttl:10m}")
+    private Duration ttl;
+
+    /**
+     * In-process cache, backed by the shared tier when one is configured.
+     */
+    @Bean
+    public ResultCache resultCache(DestinationCatalog catalog, ObjectProvider<SharedCacheTier> sharedTier) {
+        return new ResultCache(catalog, maximumSize, ttl, sharedTier.getIfAvailable());
+    }
+
+    /**
+     * Redis-protocol shared tier, only created when explicitly enabled.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "destination.cache.shared.enabled", havingValue = "true")
+    public SharedCacheTier sharedCacheTier(
+            @Value("${destination.cache.shared.uri:redis://localhost:6379}") String uri,
+            @Value("${destination.cache.shared.timeout:200ms}") Duration timeout) {
+        return new RedisSharedCacheTier(uri, timeout);
+    }
+}
@@ -0,0 +1,41 @@
+package com.microsoft.mcp.sample.server.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.microsoft.mcp.sample.server.enrichment.DestinationEnricher;
+import com.microsoft.mcp.sample.server.enrichment.EnrichmentProvider;
+import com.microsoft.mcp.sample.server.enrichment.WebClientEnrichmentProvider;
+
+/**
+ * Configuration class for the price/availability enrichment stage.
+ */
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+
+    /**
+     * Enricher combining the HTTP providers listed in the configuration with any
+     * {@link EnrichmentProvider} beans. Has no providers when enrichment is disabled.
+     */
+    @Bean
+    public DestinationEnricher destinationEnricher(EnrichmentProperties properties,
+                                                   ObjectProvider<EnrichmentProvider> providerBeans,
+                                                   WebClient.Builder webClientBuilder) {
+        List<EnrichmentProvider> providers = new ArrayList<>();
+        if (properties.isEnabled()) {
+            for (EnrichmentProperties.Provider provider : properties.getProviders()) {
+                WebClient webClient = webClientBuilder.clone().baseUrl(provider.getUrl()).build();
+                providers.add(new WebClientEnrichmentProvider(provider.getName(), provider.getDeadline(), webClient));
+            }
+            providerBeans.orderedStream().forEach(providers::add);
+        }
+        return new DestinationEnricher(providers, properties.getHedgeDelay(), properties.getHedgeBudget());
+    }
+}
@@ -1,10 +1,14 @@
 package com.microsoft.mcp.sample.server.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.microsoft.mcp.sample.server.health.DestinationHealthIndicator;
 import com.microsoft.mcp.sample.server.service.DestinationService;
 
 import java.time.LocalDateTime;
@@ -18,23 +22,30 @@ import java.util.Map;
 public class HealthController {
     
     private final DestinationService destinationService;
+    private final DestinationHealthIndicator healthIndicator;
     
     @Autowired
-    public HealthController(DestinationService destinationService) {
+    public HealthController(DestinationService destinationService, DestinationHealthIndicator healthIndicator) {
         this.destinationService = destinationService;
-    }    /**
-     * Simple health check endpoint.
+        this.healthIndicator = healthIndicator;
+    }
+
+    /**
+     * Health check endpoint reporting whether the service can serve tool calls.
+     * Responds with 503 while warming up or overloaded.
      * 
      * @return Health status information
      */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> healthCheck() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        Health health = healthIndicator.health();
+        Map<String, Object> response = new HashMap<>(health.getDetails());
+        response.put("status", health.getStatus().getCode());
         response.put("timestamp", LocalDateTime.now().toString());
         response.put("service", "Destination Recommendation Service");
         
-        return ResponseEntity.ok(response);
+        HttpStatus httpStatus = Status.UP.equals(health.getStatus()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return new ResponseEntity<>(response, httpStatus);
     }
     
     /**
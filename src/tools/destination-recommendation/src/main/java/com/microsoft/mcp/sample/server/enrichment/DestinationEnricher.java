@@ -0,0 +1,241 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Optional recommendation stage that enriches candidates with real-time price
+ * and availability data, then re-ranks them.
+ * <p>
+ * Every provider is queried for every candidate concurrently. Each call is
+ * hedged (a second request is sent if the first has not answered within the
+ * hedge delay) and bounded by the provider's deadline; calls that fail or miss
+ * their deadline are dropped and ranking uses whatever arrived. The added
+ * latency is therefore bounded by the longest deadline, not the sum of calls.
+ * <p>
+ * Hedges are capped per provider by a token bucket, so a provider that slows
+ * down receives at most {@code hedgeBudget} extra requests per request (after
+ * an initial burst of {@value #HEDGE_BURST}) instead of twice its usual load.
+ */
+public class DestinationEnricher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DestinationEnricher.class);
+
+    private final List<EnrichmentProvider> providers;
+    private static final int HEDGE_BURST = 10;
+
+    // Answer of the in-process providers used by the warm-up
+    private static final Quote WARMUP_QUOTE = new Quote(100.0, "USD", true);
+
+    private final Duration hedgeDelay;
+    private final double hedgeBudget;
+    private final Map<EnrichmentProvider, HedgeBudget> hedgeBudgets = new IdentityHashMap<>();
+    private final Duration maxDeadline;
+
+    /**
+     * @param providers The providers queried for every candidate
+     * @param hedgeDelay How long a call waits for an answer before it is hedged
+     * @param hedgeBudget Maximum ratio of hedges to requests per provider, between 0 (never hedge) and 1
+     */
+    public DestinationEnricher(List<EnrichmentProvider> providers, Duration hedgeDelay, double hedgeBudget) {
+        if (hedgeBudget < 0 || hedgeBudget > 1) {
+            throw new IllegalArgumentException("Hedge budget must be between 0 and 1, was " + hedgeBudget);
+        }
+        this.providers = List.copyOf(providers);
+        this.hedgeDelay = hedgeDelay;
+        this.hedgeBudget = hedgeBudget;
+        for (EnrichmentProvider provider : this.providers) {
+            hedgeBudgets.put(provider, new HedgeBudget(hedgeBudget));
+        }
+        this.maxDeadline = providers.stream()
+                .map(EnrichmentProvider::getDeadline)
+                .max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * @return true if candidates should be enriched, i.e. at least one provider is configured
+     */
+    public boolean isActive() {
+        return !providers.isEmpty();
+    }
+
+    /**
+     * Create an enricher with the same settings whose providers answer in-process with a
+     * fixed quote, so the warm-up can exercise the enrichment path without calling any
+     * provider before the service is ready.
+     *
+     * @return The warm-up enricher, with one in-process provider per configured provider
+     */
+    public DestinationEnricher forWarmup() {
+        List<EnrichmentProvider> warmupProviders = new ArrayList<>();
+        for (EnrichmentProvider provider : providers) {
+            warmupProviders.add(new WarmupProvider(provider.getName(), provider.getDeadline()));
+        }
+        return new DestinationEnricher(warmupProviders, hedgeDelay, hedgeBudget);
+    }
+
+    /**
+     * Enrich and re-rank candidates. Available destinations come first, then those
+     * with unknown availability, then unavailable ones; within each group cheaper
+     * destinations come first and the original order breaks ties.
+     *
+     * @param candidates The candidates, in their original recommendation order
+     * @return The enriched candidates in their new order
+     */
+    public List<EnrichedDestination> enrich(List<Destination> candidates) {
+        List<Mono<IndexedQuote>> calls = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            int index = i;
+            Destination destination = candidates.get(i);
+            for (EnrichmentProvider provider : providers) {
+                calls.add(hedgedQuote(provider, destination).map(quote -> new IndexedQuote(index, quote)));
+            }
+        }
+
+        // take() guarantees we stop waiting at the longest deadline even if a provider misbehaves
+        List<IndexedQuote> quotes = Flux.merge(calls)
+                .take(maxDeadline)
+                .collectList()
+                .block();
+
+        List<EnrichedDestination> ranked = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            ranked.add(merge(candidates.get(i), i, quotes));
+        }
+        ranked.sort(Comparator
+                .comparing(EnrichedDestination::getAvailability)
+                .thenComparing(EnrichedDestination::getPrice, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparingInt(EnrichedDestination::getOriginalRank));
+        return ranked;
+    }
+
+    private Mono<Quote> hedgedQuote(EnrichmentProvider provider, Destination destination) {
+        HedgeBudget budget = hedgeBudgets.get(provider);
+        // An empty answer is a valid "no quote", so it must win the race instead of waiting for the hedge
+        Mono<Optional<Quote>> primary = Mono.defer(() -> {
+                    budget.onRequest();
+                    return provider.quote(destination);
+                })
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        // Without budget the hedge never answers, leaving the primary to win or hit the deadline
+        Mono<Optional<Quote>> hedge = Mono.delay(hedgeDelay)
+                .then(Mono.defer(() -> budget.tryHedge() ? provider.quote(destination) : Mono.<Quote>never()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        return Mono.firstWithValue(primary, hedge)
+                .flatMap(Mono::justOrEmpty)
+                .timeout(provider.getDeadline())
+                .onErrorResume(e -> {
+                    logger.debug("Provider {} gave no quote for {}: {}",
+                            provider.getName(), destination.getName(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static EnrichedDestination merge(Destination destination, int index, List<IndexedQuote> quotes) {
+        Double price = null;
+        String currency = null;
+        boolean anyAvailable = false;
+        boolean anyUnavailable = false;
+        for (IndexedQuote indexed : quotes) {
+            if (indexed.index() != index) {
+                continue;
+            }
+            Quote quote = indexed.quote();
+            if (quote.price() != null && (price == null || quote.price() < price)) {
+                price = quote.price();
+                currency = quote.currency();
+            }
+            if (Boolean.TRUE.equals(quote.available())) {
+                anyAvailable = true;
+            } else if (Boolean.FALSE.equals(quote.available())) {
+                anyUnavailable = true;
+            }
+        }
+        EnrichedDestination.Availability availability = anyAvailable
+                ? EnrichedDestination.Availability.AVAILABLE
+                : anyUnavailable ? EnrichedDestination.Availability.UNAVAILABLE : EnrichedDestination.Availability.UNKNOWN;
+        return new EnrichedDestination(destination, index, price, currency, availability);
+    }
+
+    private record IndexedQuote(int index, Quote quote) {
+    }
+
+    /**
+     * In-process stand-in for a provider, answering immediately with the warm-up quote.
+     */
+    private static final class WarmupProvider implements EnrichmentProvider {
+        private final String name;
+        private final Duration deadline;
+
+        WarmupProvider(String name, Duration deadline) {
+            this.name = name;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        @Override
+        public Mono<Quote> quote(Destination destination) {
+            return Mono.just(WARMUP_QUOTE);
+        }
+    }
+
+    /**
+     * Token bucket of hedges for one provider, counted in thousandths of a hedge. Every
+     * request deposits the budget ratio and every hedge withdraws a whole token. It starts
+     * full so a sudden slowdown can be hedged right away.
+     */
+    private static final class HedgeBudget {
+        private static final long TOKEN = 1_000;
+
+        private final long deposit;
+        private final long capacity;
+        private final AtomicLong balance;
+
+        HedgeBudget(double ratio) {
+            this.deposit = Math.round(ratio * TOKEN);
+            this.capacity = ratio > 0 ? HEDGE_BURST * TOKEN : 0;
+            this.balance = new AtomicLong(capacity);
+        }
+
+        void onRequest() {
+            balance.accumulateAndGet(deposit, (current, added) -> Math.min(capacity, current + added));
+        }
+
+        boolean tryHedge() {
+            long current;
+            do {
+                current = balance.get();
+                if (current < TOKEN) {
+                    return false;
+                }
+            } while (!balance.compareAndSet(current, current - TOKEN));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+/**
+ * A destination together with the real-time data gathered for it.
+ */
+public class EnrichedDestination {
+
+    /**
+     * Availability merged across all providers that answered in time.
+     */
+    public enum Availability {
+        AVAILABLE,
+        UNKNOWN,
+        UNAVAILABLE
+    }
+
+    private final Destination destination;
+    private final int originalRank;
+    private final Double price;
+    private final String currency;
+    private final Availability availability;
+
+    public EnrichedDestination(Destination destination, int originalRank, Double price, String currency,
+                               Availability availability) {
+        this.destination = destination;
+        this.originalRank = originalRank;
+        this.price = price;
+        this.currency = currency;
+        this.availability = availability;
+    }
+
+    public Destination getDestination() {
+        return destination;
+    }
+
+    /**
+     * @return The position of the destination before re-ranking, starting at 0
+     */
+    public int getOriginalRank() {
+        return originalRank;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Availability getAvailability() {
+        return availability;
+    }
+}
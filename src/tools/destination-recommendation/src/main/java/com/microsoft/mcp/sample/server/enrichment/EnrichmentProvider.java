@@ -0,0 +1,33 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import java.time.Duration;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Source of real-time price and availability data for destinations.
+ * Any bean implementing this interface is picked up by the {@link DestinationEnricher}.
+ */
+public interface EnrichmentProvider {
+
+    /**
+     * @return The name of the provider, used in logs
+     */
+    String getName();
+
+    /**
+     * @return How long the enricher waits for this provider before giving up
+     */
+    Duration getDeadline();
+
+    /**
+     * Fetch a quote for a destination. The returned Mono must be lazy, as the
+     * enricher may subscribe to it more than once to hedge slow requests.
+     *
+     * @param destination The destination to quote
+     * @return The quote, or an empty Mono if the provider has none
+     */
+    Mono<Quote> quote(Destination destination);
+}
@@ -0,0 +1,12 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+/**
+ * Real-time price and availability returned by an {@link EnrichmentProvider}.
+ * Providers may fill in only the fields they know about.
+ *
+ * @param price The lowest price currently offered, or null if unknown
+ * @param currency The currency of the price
+ * @param available Whether the destination can currently be booked, or null if unknown
+ */
+public record Quote(Double price, String currency, Boolean available) {
+}
@@ -0,0 +1,50 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import java.time.Duration;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Enrichment provider calling an HTTP endpoint with a non-blocking WebClient.
+ * <p>
+ * The endpoint is queried with {@code GET <url>?destination=<name>&country=<country>}
+ * and must answer with a JSON {@link Quote}, e.g.
+ * {@code {"price": 1450.0, "currency": "USD", "available": true}}.
+ */
+public class WebClientEnrichmentProvider implements EnrichmentProvider {
+
+    private final String name;
+    private final Duration deadline;
+    private final WebClient webClient;
+
+    public WebClientEnrichmentProvider(String name, Duration deadline, WebClient webClient) {
+        this.name = name;
+        this.deadline = deadline;
+        this.webClient = webClient;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public Mono<Quote> quote(Destination destination) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("destination", destination.getName())
+                        .queryParam("country", destination.getCountry())
+                        .build())
+                .retrieve()
+                .bodyToMono(Quote.class);
+    }
+}
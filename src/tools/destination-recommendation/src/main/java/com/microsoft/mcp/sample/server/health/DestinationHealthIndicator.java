@@ -0,0 +1,45 @@
+package com.microsoft.mcp.sample.server.health;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.mcp.sample.server.service.CatalogWarmup;
+import com.microsoft.mcp.sample.server.service.DestinationCatalog;
+import com.microsoft.mcp.sample.server.tool.ToolCallTracker;
+
+/**
+ * Health indicator reflecting whether the service can serve tool calls.
+ * Reports OUT_OF_SERVICE while warming up or when too many calls are queued.
+ * Included in the readiness health group.
+ */
+@Component
+public class DestinationHealthIndicator implements HealthIndicator {
+
+    private final DestinationCatalog catalog;
+    private final CatalogWarmup warmup;
+    private final ToolCallTracker tracker;
+
+    public DestinationHealthIndicator(DestinationCatalog catalog, CatalogWarmup warmup, ToolCallTracker tracker) {
+        this.catalog = catalog;
+        this.warmup = warmup;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Health health() {
+        CatalogWarmup.Status warmupStatus = warmup.getStatus();
+        boolean warmingUp = warmupStatus == CatalogWarmup.Status.PENDING
+                || warmupStatus == CatalogWarmup.Status.RUNNING;
+
+        Health.Builder builder = warmingUp || tracker.isOverloaded() ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("catalogVersion", catalog.getVersion())
+                .withDetail("catalogLoadedAt", catalog.getLoadedAt().toString())
+                .withDetail("warmup", warmupStatus)
+                .withDetail("warmupDurationMs", warmup.getDurationMillis())
+                .withDetail("inFlightToolCalls", tracker.getInFlight())
+                .withDetail("queueDepth", tracker.getQueueDepth())
+                .build();
+    }
+}
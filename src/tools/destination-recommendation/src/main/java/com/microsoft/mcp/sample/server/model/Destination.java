@@ -0,0 +1,56 @@
+package com.microsoft.mcp.sample.server.model;
+
+/**
+ * Class representing a travel destination in the catalog.
+ * Using String types for the categories, matching {@link PreferenceRequest}.
+ */
+public class Destination {
+    private final String name;
+    private final String country;
+    private final String description;
+    private final String activityType;
+    private final String budgetCategory;
+    private final String bestSeason;
+    private final boolean familyFriendly;
+
+    // Constructor
+    public Destination(String name, String country, String description, String activityType,
+                       String budgetCategory, String bestSeason, boolean familyFriendly) {
+        this.name = name;
+        this.country = country;
+        this.description = description;
+        this.activityType = activityType;
+        this.budgetCategory = budgetCategory;
+        this.bestSeason = bestSeason;
+        this.familyFriendly = familyFriendly;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public String getBudgetCategory() {
+        return budgetCategory;
+    }
+
+    public String getBestSeason() {
+        return bestSeason;
+    }
+
+    public boolean isFamilyFriendly() {
+        return familyFriendly;
+    }
+}
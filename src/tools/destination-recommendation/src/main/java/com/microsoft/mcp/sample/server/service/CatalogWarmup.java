@@ -0,0 +1,152 @@
+package com.microsoft.mcp.sample.server.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.mcp.sample.server.cache.ResultCache;
+import com.microsoft.mcp.sample.server.enrichment.DestinationEnricher;
+
+/**
+ * Warms the service up before it reports ready.
+ * <p>
+ * Application runners complete before Spring Boot switches readiness to
+ * ACCEPTING_TRAFFIC, so running here keeps the pod out of rotation until every
+ * supported query has been loaded into the result cache and the tool call path
+ * (argument parsing, validation, cache lookup) has been exercised often enough
+ * for the JIT to compile it. When enrichment is enabled, results are not cached
+ * and the queries run through the enrichment stage instead, against in-process
+ * providers so no real provider is called before the service is ready.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CatalogWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogWarmup.class);
+
+    /**
+     * Warm-up progress as reported by the readiness probe.
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETE,
+        FAILED,
+        SKIPPED
+    }
+
+    private final DestinationService destinationService;
+    private final ResultCache resultCache;
+    private final DestinationEnricher destinationEnricher;
+    private final boolean enabled;
+    private final int iterations;
+
+    private volatile Status status = Status.PENDING;
+    private volatile long durationMillis;
+
+    public CatalogWarmup(DestinationService destinationService,
+                         ResultCache resultCache,
+                         DestinationEnricher destinationEnricher,
+                         @Value("${destination.warmup.enabled:true}") boolean enabled,
+                         @Value("${destination.warmup.iterations:1000}") int iterations) {
+        this.destinationService = destinationService;
+        this.resultCache = resultCache;
+        this.destinationEnricher = destinationEnricher;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            status = Status.SKIPPED;
+            return;
+        }
+        status = Status.RUNNING;
+        long start = System.nanoTime();
+        try {
+            DestinationService target = destinationEnricher.isActive()
+                    ? new DestinationService(resultCache, destinationEnricher.forWarmup())
+                    : destinationService;
+            // Call the tools through their callbacks so JSON argument handling is warmed up too,
+            // without going through the tracked callbacks that count real traffic.
+            ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
+                    .toolObjects(target).build().getToolCallbacks();
+            Map<String, List<String>> inputs = sampleInputs();
+            for (int i = 0; i < iterations; i++) {
+                for (ToolCallback callback : callbacks) {
+                    for (String input : inputs.getOrDefault(callback.getToolDefinition().name(), List.of())) {
+                        callback.call(input);
+                    }
+                }
+            }
+            status = Status.COMPLETE;
+        } catch (RuntimeException e) {
+            status = Status.FAILED;
+            logger.warn("Warm-up failed, continuing without it", e);
+        } finally {
+            durationMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+        logger.info("Warm-up {} in {} ms", status, durationMillis);
+    }
+
+    // One input per supported query, so every cache entry a client can hit is populated
+    private static Map<String, List<String>> sampleInputs() {
+        List<String> activities = List.of(DestinationService.BEACH, DestinationService.ADVENTURE,
+                DestinationService.CULTURAL, DestinationService.RELAXATION, DestinationService.URBAN_EXPLORATION,
+                DestinationService.NATURE, DestinationService.WINTER_SPORTS);
+        List<String> budgets = List.of(DestinationService.BUDGET, DestinationService.MODERATE, DestinationService.LUXURY);
+        List<String> seasons = List.of(DestinationService.SPRING, DestinationService.SUMMER,
+                DestinationService.AUTUMN, DestinationService.WINTER, DestinationService.ALL_YEAR);
+
+        List<String> byActivity = new ArrayList<>();
+        List<String> byPreferences = new ArrayList<>();
+        for (String activity : activities) {
+            byActivity.add("{\"activityType\":\"" + activity + "\"}");
+            byPreferences.add("{\"activity\":\"" + activity + "\"}");
+        }
+        List<String> byBudget = new ArrayList<>();
+        for (String budget : budgets) {
+            byBudget.add("{\"budget\":\"" + budget + "\"}");
+            byPreferences.add("{\"budget\":\"" + budget + "\"}");
+        }
+        List<String> bySeason = new ArrayList<>();
+        for (String season : seasons) {
+            bySeason.add("{\"season\":\"" + season + "\"}");
+            byPreferences.add("{\"season\":\"" + season + "\"}");
+        }
+        byPreferences.add("{\"familyFriendly\":true}");
+
+        return Map.of(
+                "getDestinationsByActivity", byActivity,
+                "getDestinationsByBudget", byBudget,
+                "getDestinationsBySeason", bySeason,
+                "getDestinationsByPreferences", byPreferences,
+                "getAllDestinations", List.of("{}"));
+    }
+
+    /**
+     * @return The current warm-up status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return How long the warm-up took, in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
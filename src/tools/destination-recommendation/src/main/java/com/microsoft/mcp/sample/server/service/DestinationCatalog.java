@@ -0,0 +1,62 @@
+package com.microsoft.mcp.sample.server.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the version of the destination catalog served by this instance.
+ * The version is part of every cache key, so results computed for one
+ * catalog version are never served once a replica is started with another.
+ * <p>
+ * The version is derived from a hash of the rendered result of every supported
+ * query, so any build that changes a destination, the selection rules or the
+ * formatting gets a new version without anyone bumping a property.
+ * {@code destination.catalog.version} can be set to additionally prefix the version.
+ */
+@Component
+public class DestinationCatalog {
+
+    private final String version;
+    private final Instant loadedAt;
+
+    public DestinationCatalog(@Value("${destination.catalog.version:}") String configuredVersion) {
+        String contentHash = contentHash(DestinationService.renderAllPreferences());
+        this.version = configuredVersion.isEmpty() ? contentHash : configuredVersion + "-" + contentHash;
+        this.loadedAt = Instant.now();
+    }
+
+    // First 12 hex digits of a SHA-256 over every rendered result
+    static String contentHash(List<String> results) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String result : results) {
+                digest.update(result.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @return The version of the catalog currently being served
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return When the catalog was loaded by this instance
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
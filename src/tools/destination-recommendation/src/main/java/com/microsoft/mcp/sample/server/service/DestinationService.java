@@ -1,8 +1,16 @@
 package com.microsoft.mcp.sample.server.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.stereotype.Service;
 
+import com.microsoft.mcp.sample.server.cache.ResultCache;
+import com.microsoft.mcp.sample.server.enrichment.DestinationEnricher;
+import com.microsoft.mcp.sample.server.enrichment.EnrichedDestination;
+import com.microsoft.mcp.sample.server.model.Destination;
+
 /**
  * Service for providing travel destination recommendations.
  */
@@ -30,6 +38,42 @@ public class DestinationService {
     public static final String WINTER = "WINTER";
     public static final String ALL_YEAR = "ALL_YEAR";
 
+    // Destinations used in recommendations
+    private static final Destination BALI = new Destination("Bali", "Indonesia",
+            "Beautiful beaches with vibrant culture and lush landscapes.", BEACH, MODERATE, SUMMER, true);
+    private static final Destination CANCUN = new Destination("Cancun", "Mexico",
+            "White sandy beaches with crystal clear waters and vibrant nightlife.", BEACH, MODERATE, WINTER, true);
+    private static final Destination MALDIVES = new Destination("Maldives", "Maldives",
+            "Luxurious overwater bungalows and pristine beaches perfect for relaxation.", BEACH, LUXURY, ALL_YEAR, true);
+    private static final Destination KYOTO = new Destination("Kyoto", "Japan",
+            "Ancient temples, traditional gardens, and rich cultural heritage.", CULTURAL, MODERATE, SPRING, true);
+    private static final Destination ROME = new Destination("Rome", "Italy",
+            "Historic city with ancient ruins, art, and delicious cuisine.", CULTURAL, MODERATE, SPRING, true);
+    private static final Destination PRAGUE = new Destination("Prague", "Czech Republic",
+            "Historic architecture, affordable dining, and rich cultural experiences.", CULTURAL, BUDGET, SPRING, true);
+    private static final Destination SANTORINI = new Destination("Santorini", "Greece",
+            "Beautiful sunsets, white-washed buildings, and Mediterranean cuisine.", RELAXATION, LUXURY, SUMMER, true);
+    private static final Destination ASPEN = new Destination("Aspen", "USA",
+            "World-class skiing, snowboarding, and luxurious alpine village.", WINTER_SPORTS, LUXURY, WINTER, false);
+    private static final Destination CHAMONIX = new Destination("Chamonix", "France",
+            "Epic skiing and snowboarding with stunning Mont Blanc views.", WINTER_SPORTS, LUXURY, WINTER, true);
+    private static final Destination NEW_YORK_CITY = new Destination("New York City", "USA",
+            "Iconic skyline, diverse neighborhoods, world-class museums, and entertainment.", URBAN_EXPLORATION, LUXURY, ALL_YEAR, true);
+
+    // Every value each preference can take, used to render every supported query
+    private static final List<String> ACTIVITY_TYPES = List.of(BEACH, ADVENTURE, CULTURAL, RELAXATION,
+            URBAN_EXPLORATION, NATURE, WINTER_SPORTS);
+    private static final List<String> BUDGET_CATEGORIES = List.of(BUDGET, MODERATE, LUXURY);
+    private static final List<String> SEASONS = List.of(SPRING, SUMMER, AUTUMN, WINTER, ALL_YEAR);
+
+    private final ResultCache resultCache;
+    private final DestinationEnricher destinationEnricher;
+
+    public DestinationService(ResultCache resultCache, DestinationEnricher destinationEnricher) {
+        this.resultCache = resultCache;
+        this.destinationEnricher = destinationEnricher;
+    }
+
     /**
      * Echo back the input message
      * @param message The message to echo
@@ -175,89 +219,116 @@ public class DestinationService {
      */
     @Tool(description = "Get a list of all available travel destinations")
     public String getAllDestinations() {
-        return "Here are some popular travel destinations:\n\n" +
-               "📍 Bali, Indonesia\n" +
-               "⭐️ Beautiful beaches with vibrant culture and lush landscapes.\n" +
-               "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: SUMMER | Family Friendly: Yes\n\n" +
-               "📍 Cancun, Mexico\n" +
-               "⭐️ White sandy beaches with crystal clear waters and vibrant nightlife.\n" +
-               "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: WINTER | Family Friendly: Yes\n\n" +
-               "📍 Maldives, Maldives\n" +
-               "⭐️ Luxurious overwater bungalows and pristine beaches perfect for relaxation.\n" +
-               "🏷️ Activity: BEACH | Budget: LUXURY | Best Season: ALL_YEAR | Family Friendly: Yes";
+        List<String> entries = new ArrayList<>();
+        for (Destination destination : List.of(BALI, CANCUN, MALDIVES)) {
+            entries.add(formatDestination(destination));
+        }
+        return formatRecommendation("Here are some popular travel destinations", entries);
     }
     
     /**
-     * Helper method to get destinations based on preference
+     * Helper method to get destinations based on preference. Results are served from the
+     * result cache unless real-time enrichment is active, as enriched results are not cacheable.
      */
     private String getDestinationsByPreference(String activity, String budget, String season, Boolean familyFriendly) {
+        if (destinationEnricher.isActive()) {
+            Recommendation recommendation = findDestinationsByPreference(activity, budget, season, familyFriendly);
+            List<String> entries = new ArrayList<>();
+            for (EnrichedDestination enriched : destinationEnricher.enrich(recommendation.destinations())) {
+                entries.add(formatDestination(enriched.getDestination()) + formatQuote(enriched));
+            }
+            return formatRecommendation(recommendation.heading(), entries);
+        }
+
+        String key = "preference:" + activity + "|" + budget + "|" + season + "|" + familyFriendly;
+        return resultCache.get(key, () -> renderPreference(activity, budget, season, familyFriendly));
+    }
+
+    // Helper method to render the cacheable, un-enriched result for a set of preferences
+    private static String renderPreference(String activity, String budget, String season, Boolean familyFriendly) {
+        Recommendation recommendation = findDestinationsByPreference(activity, budget, season, familyFriendly);
+        List<String> entries = new ArrayList<>();
+        for (Destination destination : recommendation.destinations()) {
+            entries.add(formatDestination(destination));
+        }
+        return formatRecommendation(recommendation.heading(), entries);
+    }
+
+    /**
+     * Render the cacheable result of every supported combination of preferences, in a fixed
+     * order. DestinationCatalog hashes this output, so a change to the destinations, the
+     * selection rules or the formatting always yields a new catalog version.
+     *
+     * @return The rendered results
+     */
+    static List<String> renderAllPreferences() {
+        List<String> results = new ArrayList<>();
+        for (String activity : withUnspecified(ACTIVITY_TYPES)) {
+            for (String budget : withUnspecified(BUDGET_CATEGORIES)) {
+                for (String season : withUnspecified(SEASONS)) {
+                    for (Boolean familyFriendly : withUnspecified(List.of(true, false))) {
+                        results.add(renderPreference(activity, budget, season, familyFriendly));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // Helper method to add the "not specified" (null) value to the values of a preference
+    private static <T> List<T> withUnspecified(List<T> values) {
+        List<T> all = new ArrayList<>(values);
+        all.add(null);
+        return all;
+    }
+
+    /**
+     * Helper method to select destinations based on preference
+     */
+    private static Recommendation findDestinationsByPreference(String activity, String budget, String season, Boolean familyFriendly) {
         // We'll return some hardcoded results based on the preferences
         if (activity != null && activity.equals(BEACH)) {
-            return "Here are some beach destinations for you:\n\n" +
-                   "📍 Bali, Indonesia\n" +
-                   "⭐️ Beautiful beaches with vibrant culture and lush landscapes.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: SUMMER | Family Friendly: Yes\n\n" +
-                   "📍 Cancun, Mexico\n" +
-                   "⭐️ White sandy beaches with crystal clear waters and vibrant nightlife.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: WINTER | Family Friendly: Yes\n\n" +
-                   "📍 Maldives, Maldives\n" +
-                   "⭐️ Luxurious overwater bungalows and pristine beaches perfect for relaxation.\n" +
-                   "🏷️ Activity: BEACH | Budget: LUXURY | Best Season: ALL_YEAR | Family Friendly: Yes";
+            return new Recommendation("Here are some beach destinations for you", List.of(BALI, CANCUN, MALDIVES));
         } else if (activity != null && activity.equals(CULTURAL)) {
-            return "Here are some cultural destinations for you:\n\n" +
-                   "📍 Kyoto, Japan\n" +
-                   "⭐️ Ancient temples, traditional gardens, and rich cultural heritage.\n" +
-                   "🏷️ Activity: CULTURAL | Budget: MODERATE | Best Season: SPRING | Family Friendly: Yes\n\n" +
-                   "📍 Rome, Italy\n" +
-                   "⭐️ Historic city with ancient ruins, art, and delicious cuisine.\n" +
-                   "🏷️ Activity: CULTURAL | Budget: MODERATE | Best Season: SPRING | Family Friendly: Yes\n\n" +
-                   "📍 Prague, Czech Republic\n" +
-                   "⭐️ Historic architecture, affordable dining, and rich cultural experiences.\n" +
-                   "🏷️ Activity: CULTURAL | Budget: BUDGET | Best Season: SPRING | Family Friendly: Yes";
+            return new Recommendation("Here are some cultural destinations for you", List.of(KYOTO, ROME, PRAGUE));
         } else if (budget != null && budget.equals(LUXURY)) {
-            return "Here are some luxury destinations for you:\n\n" +
-                   "📍 Maldives, Maldives\n" +
-                   "⭐️ Luxurious overwater bungalows and pristine beaches perfect for relaxation.\n" +
-                   "🏷️ Activity: BEACH | Budget: LUXURY | Best Season: ALL_YEAR | Family Friendly: Yes\n\n" +
-                   "📍 Santorini, Greece\n" +
-                   "⭐️ Beautiful sunsets, white-washed buildings, and Mediterranean cuisine.\n" +
-                   "🏷️ Activity: RELAXATION | Budget: LUXURY | Best Season: SUMMER | Family Friendly: Yes\n\n" +
-                   "📍 Aspen, USA\n" +
-                   "⭐️ World-class skiing, snowboarding, and luxurious alpine village.\n" +
-                   "🏷️ Activity: WINTER_SPORTS | Budget: LUXURY | Best Season: WINTER | Family Friendly: No";
+            return new Recommendation("Here are some luxury destinations for you", List.of(MALDIVES, SANTORINI, ASPEN));
         } else if (season != null && season.equals(WINTER)) {
-            return "Here are some winter destinations for you:\n\n" +
-                   "📍 Aspen, USA\n" +
-                   "⭐️ World-class skiing, snowboarding, and luxurious alpine village.\n" +
-                   "🏷️ Activity: WINTER_SPORTS | Budget: LUXURY | Best Season: WINTER | Family Friendly: No\n\n" +
-                   "📍 Chamonix, France\n" +
-                   "⭐️ Epic skiing and snowboarding with stunning Mont Blanc views.\n" +
-                   "🏷️ Activity: WINTER_SPORTS | Budget: LUXURY | Best Season: WINTER | Family Friendly: Yes\n\n" +
-                   "📍 Cancun, Mexico\n" +
-                   "⭐️ White sandy beaches with crystal clear waters and vibrant nightlife.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: WINTER | Family Friendly: Yes";
+            return new Recommendation("Here are some winter destinations for you", List.of(ASPEN, CHAMONIX, CANCUN));
         } else if (familyFriendly != null && familyFriendly) {
-            return "Here are some family-friendly destinations for you:\n\n" +
-                   "📍 Bali, Indonesia\n" +
-                   "⭐️ Beautiful beaches with vibrant culture and lush landscapes.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: SUMMER | Family Friendly: Yes\n\n" +
-                   "📍 Cancun, Mexico\n" +
-                   "⭐️ White sandy beaches with crystal clear waters and vibrant nightlife.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: WINTER | Family Friendly: Yes\n\n" +
-                   "📍 Kyoto, Japan\n" +
-                   "⭐️ Ancient temples, traditional gardens, and rich cultural heritage.\n" +
-                   "🏷️ Activity: CULTURAL | Budget: MODERATE | Best Season: SPRING | Family Friendly: Yes";
+            return new Recommendation("Here are some family-friendly destinations for you", List.of(BALI, CANCUN, KYOTO));
         } else {
-            return "Here are some popular travel destinations:\n\n" +
-                   "📍 Bali, Indonesia\n" +
-                   "⭐️ Beautiful beaches with vibrant culture and lush landscapes.\n" +
-                   "🏷️ Activity: BEACH | Budget: MODERATE | Best Season: SUMMER | Family Friendly: Yes\n\n" +
-                   "📍 Kyoto, Japan\n" +
-                   "⭐️ Ancient temples, traditional gardens, and rich cultural heritage.\n" +
-                   "🏷️ Activity: CULTURAL | Budget: MODERATE | Best Season: SPRING | Family Friendly: Yes\n\n" +
-                   "📍 New York City, USA\n" +
-                   "⭐️ Iconic skyline, diverse neighborhoods, world-class museums, and entertainment.\n" +
-                   "🏷️ Activity: URBAN_EXPLORATION | Budget: LUXURY | Best Season: ALL_YEAR | Family Friendly: Yes";
+            return new Recommendation("Here are some popular travel destinations", List.of(BALI, KYOTO, NEW_YORK_CITY));
         }
     }
-}
\ No newline at end of file
+
+    // Helper method to format a recommendation from its formatted entries
+    private static String formatRecommendation(String heading, List<String> entries) {
+        return heading + ":\n\n" + String.join("\n\n", entries);
+    }
+
+    // Helper method to format a single destination entry
+    private static String formatDestination(Destination destination) {
+        return "📍 " + destination.getName() + ", " + destination.getCountry() + "\n" +
+               "⭐️ " + destination.getDescription() + "\n" +
+               "🏷️ Activity: " + destination.getActivityType() +
+               " | Budget: " + destination.getBudgetCategory() +
+               " | Best Season: " + destination.getBestSeason() +
+               " | Family Friendly: " + (destination.isFamilyFriendly() ? "Yes" : "No");
+    }
+
+    // Helper method to format the real-time data line of an enriched entry
+    private static String formatQuote(EnrichedDestination enriched) {
+        String price = enriched.getPrice() != null
+                ? String.format("From %.0f %s", enriched.getPrice(), enriched.getCurrency() != null ? enriched.getCurrency() : "")
+                        .trim()
+                : "Price unavailable";
+        return "\n💲 " + price + " | Availability: " + enriched.getAvailability();
+    }
+
+    /**
+     * Destinations selected for a set of preferences, with the heading they are presented under.
+     */
+    private record Recommendation(String heading, List<Destination> destinations) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.microsoft.mcp.sample.server.tool;
+
+import java.util.function.Supplier;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import com.microsoft.mcp.sample.server.analytics.ToolCallLog;
+
+/**
+ * Tool callback that records every call of its delegate in the {@link ToolCallLog}.
+ */
+public class LoggedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolCallLog toolCallLog;
+
+    public LoggedToolCallback(ToolCallback delegate, ToolCallLog toolCallLog) {
+        this.delegate = delegate;
+        this.toolCallLog = toolCallLog;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return logged(toolInput, () -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return logged(toolInput, () -> delegate.call(toolInput, toolContext));
+    }
+
+    private String logged(String toolInput, Supplier<String> call) {
+        long start = System.nanoTime();
+        String result = null;
+        try {
+            result = call.get();
+            return result;
+        } finally {
+            toolCallLog.record(getToolDefinition().name(), toolInput, result, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.microsoft.mcp.sample.server.tool;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks in-flight tool calls and, optionally, limits their concurrency.
+ * <p>
+ * By default calls are only counted. When {@code destination.tools.max-in-flight}
+ * is set, at most that many calls execute at once: further calls wait up to
+ * {@code destination.tools.queue-timeout} for a slot, and calls arriving while
+ * {@code destination.tools.max-queue-depth} callers are already waiting are
+ * rejected immediately. A full queue is reported as overloaded so the readiness
+ * probe takes the replica out of rotation.
+ */
+@Component
+public class ToolCallTracker {
+
+    private final Semaphore permits;
+    private final int maxQueueDepth;
+    private final long queueTimeoutMillis;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param maxInFlight Maximum number of concurrent calls, or 0 for no limit
+     * @param maxQueueDepth Maximum number of calls waiting for a slot when limited, 0 to reject
+     *                      calls immediately when every slot is taken
+     * @param queueTimeout How long a call waits for a slot before it is rejected
+     */
+    public ToolCallTracker(@Value("${destination.tools.max-in-flight:0}") int maxInFlight,
+                           @Value("${destination.tools.max-queue-depth:32}") int maxQueueDepth,
+                           @Value("${destination.tools.queue-timeout:1s}") Duration queueTimeout) {
+        if (maxInFlight < 0 || maxQueueDepth < 0 || queueTimeout.isNegative()) {
+            throw new IllegalArgumentException("Tool call limits must not be negative");
+        }
+        this.permits = maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
+        this.maxQueueDepth = maxQueueDepth;
+        this.queueTimeoutMillis = queueTimeout.toMillis();
+    }
+
+    /**
+     * Run a tool call, waiting for a slot first when concurrency is limited.
+     *
+     * @param call The tool call to execute
+     * @return The result of the tool call
+     * @throws IllegalStateException if the call was rejected because the service is overloaded
+     */
+    public String track(Supplier<String> call) {
+        if (permits != null) {
+            acquire();
+        }
+        inFlight.incrementAndGet();
+        try {
+            return call.get();
+        } finally {
+            inFlight.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueueDepth) {
+            queued.decrementAndGet();
+            throw new IllegalStateException("Too many concurrent tool calls, please try again later");
+        }
+        try {
+            if (!permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out waiting for a tool call slot, please try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a tool call slot", e);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return The number of tool calls currently executing
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of tool calls waiting for a slot, always 0 when concurrency is not limited
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return Whether the wait queue is full, so new calls are being rejected. Always false
+     * when the queue depth is 0, as there is no queue that could fill up
+     */
+    public boolean isOverloaded() {
+        return permits != null && maxQueueDepth > 0 && queued.get() >= maxQueueDepth;
+    }
+}
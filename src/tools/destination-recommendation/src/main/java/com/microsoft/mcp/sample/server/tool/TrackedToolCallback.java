@@ -0,0 +1,40 @@
+package com.microsoft.mcp.sample.server.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+/**
+ * Tool callback that runs every call of its delegate through the {@link ToolCallTracker}.
+ */
+public class TrackedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolCallTracker tracker;
+
+    public TrackedToolCallback(ToolCallback delegate, ToolCallTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return tracker.track(() -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return tracker.track(() -> delegate.call(toolInput, toolContext));
+    }
+}
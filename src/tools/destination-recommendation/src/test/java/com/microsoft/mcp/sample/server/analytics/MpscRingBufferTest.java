@@ -0,0 +1,88 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<>(2).capacity()).isEqualTo(2);
+        assertThat(new MpscRingBuffer<>(3).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(1024).capacity()).isEqualTo(1024);
+        assertThat(new MpscRingBuffer<>(1025).capacity()).isEqualTo(2048);
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrained() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(256);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        go.countDown();
+        List<Long> drained = new ArrayList<>(producers * perProducer);
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (drained.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drainTo(drained, 64);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(drained).hasSize(producers * perProducer);
+        Set<Long> unique = new HashSet<>(drained);
+        assertThat(unique).hasSize(producers * perProducer);
+        // Each producer's elements arrive in the order it offered them
+        long[] last = new long[producers];
+        Arrays.fill(last, -1);
+        for (long value : drained) {
+            int producer = (int) (value / perProducer);
+            assertThat(value).isGreaterThan(last[producer]);
+            last[producer] = value;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RollingFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rollsAtSizeLimitAndDeletesOldestSegments() throws IOException {
+        try (RollingFileWriter writer = new RollingFileWriter(directory, 10, 2)) {
+            for (int batch = 0; batch < 4; batch++) {
+                writer.write(List.of(("batch-" + batch + "-a").getBytes(StandardCharsets.UTF_8),
+                        ("batch-" + batch + "-b").getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        List<Path> segments = segments();
+        assertThat(segments).hasSize(2);
+        assertThat(Files.readAllLines(segments.get(0))).containsExactly("batch-2-a", "batch-2-b");
+        assertThat(Files.readAllLines(segments.get(1))).containsExactly("batch-3-a", "batch-3-b");
+    }
+
+    @Test
+    void appendsToCurrentSegmentBelowSizeLimit() throws IOException {
+        try (RollingFileWriter writer = new RollingFileWriter(directory, 1024, 2)) {
+            writer.write(List.of("first".getBytes(StandardCharsets.UTF_8)));
+            writer.write(List.of("second".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        List<Path> segments = segments();
+        assertThat(segments).hasSize(1);
+        assertThat(Files.readAllLines(segments.get(0))).containsExactly("first", "second");
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(RollingFileWriter::isSegment).sorted().toList();
+        }
+    }
+}
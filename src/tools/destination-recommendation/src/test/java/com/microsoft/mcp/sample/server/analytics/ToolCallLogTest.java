@@ -0,0 +1,112 @@
+package com.microsoft.mcp.sample.server.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ToolCallLogTest {
+
+    private static final String RESULT =
+            "\"Here are some beach destinations for you:\\n\\n📍 Bali, Indonesia\\n⭐️ Beaches.\\n\\n📍 Cancun, Mexico\\n⭐️ Beaches.\"";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fullBufferDropsAndCountsCalls() throws IOException {
+        // The drain thread is not started yet, so the buffer fills deterministically
+        ToolCallLog log = newLog(2);
+        for (int i = 0; i < 5; i++) {
+            log.record("getDestinationsByActivity", "{\"activityType\":\"beach\"}", RESULT, 1_000);
+        }
+
+        assertThat(log.getRecorded()).isEqualTo(2);
+        assertThat(log.getDropped()).isEqualTo(3);
+
+        log.start();
+        log.close();
+        assertThat(log.getWritten()).isEqualTo(2);
+        assertThat(lines()).hasSize(2);
+    }
+
+    @Test
+    void closeWritesOutEverythingStillBuffered() throws IOException {
+        ToolCallLog log = newLog(1024);
+        log.start();
+        for (int i = 0; i < 500; i++) {
+            log.record("getDestinationsByActivity", "{\"activityType\":\" beach \",\"unused\":\"\"}", RESULT, 2_500);
+        }
+        log.close();
+
+        assertThat(log.getDropped()).isZero();
+        assertThat(log.getWritten()).isEqualTo(500);
+        List<String> lines = lines();
+        assertThat(lines).hasSize(500);
+
+        ToolCallRecord record = mapper.readValue(lines.get(0), ToolCallRecord.class);
+        assertThat(record.tool()).isEqualTo("getDestinationsByActivity");
+        assertThat(record.args()).containsExactly(Map.entry("activityType", "BEACH"));
+        assertThat(record.results()).containsExactly("bali-indonesia", "cancun-mexico");
+        assertThat(record.latencyUs()).isEqualTo(2);
+        assertThat(record.ok()).isTrue();
+    }
+
+    @Test
+    void failedCallIsDroppedWithoutStoppingTheDrainThread() throws Exception {
+        ObjectMapper failingMapper = new ObjectMapper() {
+            @Override
+            public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+                if (value instanceof ToolCallRecord record && record.tool().equals("broken")) {
+                    throw new IllegalStateException("serializer bug");
+                }
+                return super.writeValueAsBytes(value);
+            }
+        };
+        ToolCallLog log = new ToolCallLog(directory, 1024, 64, 1024 * 1024, 10, Duration.ofMillis(10), failingMapper);
+        log.start();
+
+        log.record("broken", "{}", RESULT, 1_000);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (log.getDropped() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        log.record("getAllDestinations", null, RESULT, 1_000);
+        log.close();
+
+        assertThat(log.getDropped()).isEqualTo(1);
+        assertThat(log.getWritten()).isEqualTo(1);
+        ToolCallRecord record = mapper.readValue(lines().get(0), ToolCallRecord.class);
+        assertThat(record.tool()).isEqualTo("getAllDestinations");
+        assertThat(record.args()).isEmpty();
+    }
+
+    private ToolCallLog newLog(int capacity) {
+        // A long idle wait makes sure only close() wakes the drain thread once the buffer is empty
+        return new ToolCallLog(directory, capacity, 64, 1024 * 1024, 10, Duration.ofHours(1), mapper);
+    }
+
+    private List<String> lines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path segment : files.filter(RollingFileWriter::isSegment).sorted().toList()) {
+                lines.addAll(Files.readAllLines(segment));
+            }
+        }
+        return lines;
+    }
+}
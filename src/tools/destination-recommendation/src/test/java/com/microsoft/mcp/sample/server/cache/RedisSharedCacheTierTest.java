@@ -0,0 +1,231 @@
+package com.microsoft.mcp.sample.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class RedisSharedCacheTierTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+    private static final Duration BACKOFF = Duration.ofMillis(50);
+
+    @Test
+    void missesUntilConnectedThenHits() throws Exception {
+        int port = freePort();
+        try (RedisSharedCacheTier tier = new RedisSharedCacheTier(uri(port), TIMEOUT, BACKOFF)) {
+            assertThat(tier.get("beach")).isNull();
+
+            try (RespServer server = new RespServer(port)) {
+                server.values.put("beach", "from another replica");
+
+                assertThat(await(() -> tier.get("beach"))).isEqualTo("from another replica");
+            }
+        }
+    }
+
+    @Test
+    void putStoresValueWithTtl() throws Exception {
+        try (RespServer server = new RespServer(0);
+             RedisSharedCacheTier tier = connectedTier(server)) {
+            tier.put("beach", "computed", Duration.ofMinutes(10));
+
+            assertThat(await(() -> server.values.get("beach"))).isEqualTo("computed");
+            assertThat(server.ttls).containsEntry("beach", 600L);
+            assertThat(tier.get("beach")).isEqualTo("computed");
+        }
+    }
+
+    @Test
+    void unresponsiveServerDegradesToMissWithinTimeout() throws Exception {
+        try (RespServer server = new RespServer(0);
+             RedisSharedCacheTier tier = connectedTier(server)) {
+            server.values.put("beach", "cached");
+            server.stalled = true;
+
+            long start = System.nanoTime();
+            String result = tier.get("beach");
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(result).isNull();
+            assertThat(elapsedMillis).isLessThan(1000);
+        }
+    }
+
+    @Test
+    void downedServerDegradesToMissWithinTimeout() throws Exception {
+        RespServer server = new RespServer(0);
+        try (RedisSharedCacheTier tier = connectedTier(server)) {
+            server.values.put("beach", "cached");
+            server.close();
+
+            long start = System.nanoTime();
+            String result = tier.get("beach");
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(result).isNull();
+            assertThat(elapsedMillis).isLessThan(1000);
+        }
+    }
+
+    private static RedisSharedCacheTier connectedTier(RespServer server) throws InterruptedException {
+        RedisSharedCacheTier tier = new RedisSharedCacheTier(uri(server.port()), TIMEOUT, BACKOFF);
+        server.values.put("probe", "connected");
+        assertThat(await(() -> tier.get("probe"))).isEqualTo("connected");
+        return tier;
+    }
+
+    // Polls until the supplier returns a value, or gives up after five seconds
+    private static String await(Supplier<String> supplier) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String value = supplier.get();
+        while (value == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            value = supplier.get();
+        }
+        return value;
+    }
+
+    private static String uri(int port) {
+        return "redis://127.0.0.1:" + port;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Minimal RESP2 server on the loopback interface, answering the commands the tier
+     * sends: PING and CLIENT during the handshake, then GET and SETEX. Once stalled it
+     * keeps reading commands but never answers them.
+     */
+    private static class RespServer implements AutoCloseable {
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        final Map<String, Long> ttls = new ConcurrentHashMap<>();
+        volatile boolean stalled;
+
+        private final ServerSocket serverSocket;
+        private final List<Socket> clients = new CopyOnWriteArrayList<>();
+
+        RespServer(int port) throws IOException {
+            serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            Thread acceptor = new Thread(this::accept, "resp-server");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket client = serverSocket.accept();
+                    clients.add(client);
+                    Thread handler = new Thread(() -> serve(client), "resp-client");
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket client) {
+            try (client) {
+                InputStream in = new BufferedInputStream(client.getInputStream());
+                OutputStream out = client.getOutputStream();
+                List<String> command;
+                while ((command = readCommand(in)) != null) {
+                    if (!stalled) {
+                        out.write(reply(command).getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                // Connection closed by either side
+            }
+        }
+
+        private String reply(List<String> command) {
+            switch (command.get(0).toUpperCase()) {
+                case "PING":
+                    return "+PONG\r\n";
+                case "CLIENT":
+                    return "+OK\r\n";
+                case "GET": {
+                    String value = values.get(command.get(1));
+                    return value == null
+                            ? "$-1\r\n"
+                            : "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+                }
+                case "SETEX":
+                    ttls.put(command.get(1), Long.parseLong(command.get(2)));
+                    values.put(command.get(1), command.get(3));
+                    return "+OK\r\n";
+                default:
+                    return "-ERR unknown command '" + command.get(0) + "'\r\n";
+            }
+        }
+
+        // Reads one command, sent by clients as an array of bulk strings; null at end of stream
+        private static List<String> readCommand(InputStream in) throws IOException {
+            String header = readLine(in);
+            if (header == null) {
+                return null;
+            }
+            int count = Integer.parseInt(header.substring(1));
+            List<String> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = Integer.parseInt(readLine(in).substring(1));
+                byte[] bytes = in.readNBytes(length);
+                in.readNBytes(2);
+                command.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return command;
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read();
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            for (Socket client : clients) {
+                client.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.microsoft.mcp.sample.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.mcp.sample.server.service.DestinationCatalog;
+
+class ResultCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void localMissIsServedFromSharedTier() {
+        DestinationCatalog catalog = new DestinationCatalog("");
+        InMemorySharedCacheTier shared = new InMemorySharedCacheTier();
+        shared.entries.put("destination:" + catalog.getVersion() + ":beach", "from another replica");
+        CountingLoader loader = new CountingLoader("computed");
+
+        String result = new ResultCache(catalog, 100, TTL, shared).get("beach", loader);
+
+        assertThat(result).isEqualTo("from another replica");
+        assertThat(loader.calls.get()).isZero();
+    }
+
+    @Test
+    void loaderRunsOnceAndResultIsSharedWithOtherReplicas() {
+        DestinationCatalog catalog = new DestinationCatalog("");
+        InMemorySharedCacheTier shared = new InMemorySharedCacheTier();
+        CountingLoader loader = new CountingLoader("computed");
+        ResultCache replicaA = new ResultCache(catalog, 100, TTL, shared);
+        ResultCache replicaB = new ResultCache(catalog, 100, TTL, shared);
+
+        assertThat(replicaA.get("beach", loader)).isEqualTo("computed");
+        assertThat(replicaA.get("beach", loader)).isEqualTo("computed");
+        assertThat(replicaB.get("beach", loader)).isEqualTo("computed");
+
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(shared.entries).containsEntry("destination:" + catalog.getVersion() + ":beach", "computed");
+    }
+
+    @Test
+    void keysAreScopedByCatalogVersion() {
+        DestinationCatalog oldCatalog = new DestinationCatalog("1");
+        DestinationCatalog newCatalog = new DestinationCatalog("2");
+        InMemorySharedCacheTier shared = new InMemorySharedCacheTier();
+
+        new ResultCache(oldCatalog, 100, TTL, shared).get("beach", new CountingLoader("old"));
+        CountingLoader newLoader = new CountingLoader("new");
+        String result = new ResultCache(newCatalog, 100, TTL, shared).get("beach", newLoader);
+
+        assertThat(oldCatalog.getVersion()).isNotEqualTo(newCatalog.getVersion());
+        assertThat(result).isEqualTo("new");
+        assertThat(newLoader.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failingSharedTierDegradesToMiss() {
+        SharedCacheTier failing = new SharedCacheTier() {
+            @Override
+            public String get(String key) {
+                throw new IllegalStateException("connection refused");
+            }
+
+            @Override
+            public void put(String key, String value, Duration ttl) {
+                throw new IllegalStateException("connection refused");
+            }
+        };
+        CountingLoader loader = new CountingLoader("computed");
+        ResultCache cache = new ResultCache(new DestinationCatalog(""), 100, TTL, failing);
+
+        assertThat(cache.get("beach", loader)).isEqualTo("computed");
+        assertThat(cache.get("beach", loader)).isEqualTo("computed");
+        assertThat(loader.calls.get()).isEqualTo(1);
+    }
+
+    /**
+     * Shared tier backed by a map, shared by the caches standing in for several replicas.
+     */
+    private static class InMemorySharedCacheTier implements SharedCacheTier {
+        final Map<String, String> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public String get(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void put(String key, String value, Duration ttl) {
+            entries.put(key, value);
+        }
+    }
+
+    private static class CountingLoader implements Supplier<String> {
+        final AtomicInteger calls = new AtomicInteger();
+        final String value;
+
+        CountingLoader(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String get() {
+            calls.incrementAndGet();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+import reactor.core.publisher.Mono;
+
+class DestinationEnricherTest {
+
+    private static final Destination BALI = destination("Bali");
+    private static final Destination CANCUN = destination("Cancun");
+    private static final Destination KYOTO = destination("Kyoto");
+    private static final Destination ROME = destination("Rome");
+    private static final Destination PRAGUE = destination("Prague");
+
+    private static final Duration NO_HEDGE = Duration.ofSeconds(10);
+    private static final double HEDGE_BUDGET = 0.1;
+
+    @Test
+    void reRanksByAvailabilityThenPriceThenOriginalOrder() {
+        Map<String, Quote> quotes = Map.of(
+                "Bali", new Quote(50.0, "USD", false),
+                "Cancun", new Quote(300.0, "USD", true),
+                "Kyoto", new Quote(100.0, "USD", true),
+                "Prague", new Quote(100.0, "USD", true));
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(500),
+                (destination, call) -> Mono.justOrEmpty(quotes.get(destination.getName())));
+
+        List<EnrichedDestination> ranked = enricher(NO_HEDGE, provider).enrich(List.of(BALI, CANCUN, KYOTO, ROME, PRAGUE));
+
+        assertThat(ranked).extracting(enriched -> enriched.getDestination().getName())
+                .containsExactly("Kyoto", "Prague", "Cancun", "Rome", "Bali");
+        assertThat(ranked).extracting(EnrichedDestination::getOriginalRank).containsExactly(2, 4, 1, 3, 0);
+        assertThat(ranked.get(3).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNKNOWN);
+        assertThat(ranked.get(4).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNAVAILABLE);
+    }
+
+    @Test
+    void lateAndFailingProvidersAreDroppedWithinLongestDeadline() {
+        StubProvider fast = new StubProvider("fast", Duration.ofMillis(400),
+                (destination, call) -> Mono.just(new Quote(100.0, "USD", null)).delayElement(Duration.ofMillis(20)));
+        StubProvider late = new StubProvider("late", Duration.ofMillis(400),
+                (destination, call) -> Mono.just(new Quote(1.0, "USD", false)).delayElement(Duration.ofSeconds(5)));
+        StubProvider failing = new StubProvider("failing", Duration.ofMillis(400),
+                (destination, call) -> Mono.error(new IllegalStateException("503 Service Unavailable")));
+
+        long start = System.nanoTime();
+        List<EnrichedDestination> ranked = enricher(NO_HEDGE, fast, late, failing).enrich(List.of(BALI, CANCUN, KYOTO));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Sequential calls would take at least 3 x 400ms for the late provider alone
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_000));
+        assertThat(ranked).allSatisfy(enriched -> {
+            assertThat(enriched.getPrice()).isEqualTo(100.0);
+            assertThat(enriched.getAvailability()).isEqualTo(EnrichedDestination.Availability.UNKNOWN);
+        });
+        assertThat(ranked).extracting(enriched -> enriched.getDestination().getName())
+                .containsExactly("Bali", "Cancun", "Kyoto");
+    }
+
+    @Test
+    void slowPrimaryRequestIsHedged() {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(500),
+                (destination, call) -> call == 1
+                        ? Mono.just(new Quote(999.0, "USD", true)).delayElement(Duration.ofSeconds(5))
+                        : Mono.just(new Quote(200.0, "USD", true)));
+
+        List<EnrichedDestination> ranked = enricher(Duration.ofMillis(50), provider).enrich(List.of(BALI));
+
+        assertThat(provider.calls.get()).isEqualTo(2);
+        assertThat(ranked.get(0).getPrice()).isEqualTo(200.0);
+    }
+
+    @Test
+    void hedgesAreCappedByBudget() {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(200),
+                (destination, call) -> Mono.just(new Quote(999.0, "USD", true)).delayElement(Duration.ofSeconds(5)));
+        List<Destination> candidates = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            candidates.add(destination("Destination " + i));
+        }
+
+        List<EnrichedDestination> ranked = enricher(Duration.ofMillis(20), provider).enrich(candidates);
+
+        // 40 primaries, then only the initial burst of 10 hedges as the bucket was already full
+        assertThat(provider.calls.get()).isEqualTo(50);
+        assertThat(ranked).allSatisfy(enriched -> assertThat(enriched.getPrice()).isNull());
+    }
+
+    @Test
+    void zeroBudgetNeverHedges() {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(200),
+                (destination, call) -> Mono.just(new Quote(999.0, "USD", true)).delayElement(Duration.ofSeconds(5)));
+        DestinationEnricher enricher = new DestinationEnricher(List.of(provider), Duration.ofMillis(20), 0);
+
+        enricher.enrich(List.of(BALI));
+
+        assertThat(provider.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyAnswerIsNotHedged() throws InterruptedException {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(500),
+                (destination, call) -> Mono.empty());
+
+        List<EnrichedDestination> ranked = enricher(Duration.ofMillis(50), provider).enrich(List.of(BALI));
+        Thread.sleep(150);
+
+        assertThat(provider.calls.get()).isEqualTo(1);
+        assertThat(ranked.get(0).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNKNOWN);
+    }
+
+    @Test
+    void activeOnlyWithProviders() {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(100), (destination, call) -> Mono.empty());
+
+        assertThat(enricher(NO_HEDGE).isActive()).isFalse();
+        assertThat(enricher(NO_HEDGE, provider).isActive()).isTrue();
+    }
+
+    @Test
+    void warmupEnricherNeverCallsProviders() {
+        StubProvider provider = new StubProvider("prices", Duration.ofMillis(100),
+                (destination, call) -> Mono.just(new Quote(999.0, "USD", false)));
+        DestinationEnricher warmup = enricher(NO_HEDGE, provider).forWarmup();
+
+        List<EnrichedDestination> ranked = warmup.enrich(List.of(BALI, CANCUN));
+
+        assertThat(warmup.isActive()).isTrue();
+        assertThat(provider.calls.get()).isZero();
+        assertThat(ranked).allSatisfy(enriched ->
+                assertThat(enriched.getAvailability()).isEqualTo(EnrichedDestination.Availability.AVAILABLE));
+    }
+
+    private static DestinationEnricher enricher(Duration hedgeDelay, EnrichmentProvider... providers) {
+        return new DestinationEnricher(List.of(providers), hedgeDelay, HEDGE_BUDGET);
+    }
+
+    private static Destination destination(String name) {
+        return new Destination(name, "Country", "Description", "BEACH", "MODERATE", "SUMMER", true);
+    }
+
+    /**
+     * Provider answering with a fixed Mono per destination and call number (starting at 1).
+     */
+    private static class StubProvider implements EnrichmentProvider {
+        final AtomicInteger calls = new AtomicInteger();
+        final String name;
+        final Duration deadline;
+        final BiFunction<Destination, Integer, Mono<Quote>> answer;
+
+        StubProvider(String name, Duration deadline, BiFunction<Destination, Integer, Mono<Quote>> answer) {
+            this.name = name;
+            this.deadline = deadline;
+            this.answer = answer;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        @Override
+        public Mono<Quote> quote(Destination destination) {
+            return Mono.defer(() -> answer.apply(destination, calls.incrementAndGet()));
+        }
+    }
+}
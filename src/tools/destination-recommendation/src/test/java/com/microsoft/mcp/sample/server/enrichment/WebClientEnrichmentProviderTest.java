@@ -0,0 +1,108 @@
+package com.microsoft.mcp.sample.server.enrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.microsoft.mcp.sample.server.model.Destination;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+class WebClientEnrichmentProviderTest {
+
+    private static final Destination BALI = new Destination("Bali", "Indonesia", "Beaches", "BEACH", "MODERATE", "SUMMER", true);
+    private static final Destination CANCUN = new Destination("Cancun", "Mexico", "Beaches", "BEACH", "MODERATE", "WINTER", true);
+    private static final Destination KYOTO = new Destination("Kyoto", "Japan", "Temples", "CULTURAL", "MODERATE", "SPRING", true);
+    private static final Destination NEW_YORK_CITY = new Destination("New York City", "USA", "Skyline", "URBAN_EXPLORATION", "LUXURY", "ALL_YEAR", true);
+
+    private final Map<String, String> countriesByDestination = new ConcurrentHashMap<>();
+    private final CountDownLatch slowAnswerCancelled = new CountDownLatch(1);
+    private DisposableServer server;
+
+    @BeforeEach
+    void startServer() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.get("/quotes", (request, response) -> {
+                    Map<String, List<String>> parameters = new QueryStringDecoder(request.uri()).parameters();
+                    String destination = parameters.get("destination").get(0);
+                    countriesByDestination.put(destination, parameters.get("country").get(0));
+                    switch (destination) {
+                        case "Bali":
+                            return json(response.status(HttpResponseStatus.OK),
+                                    Mono.just("{\"price\": 1450.0, \"currency\": \"USD\", \"available\": true}"));
+                        case "New York City":
+                            return json(response.status(HttpResponseStatus.OK),
+                                    Mono.just("{\"price\": 900, \"currency\": \"EUR\", \"available\": false}"));
+                        case "Cancun":
+                            return response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send();
+                        default:
+                            return json(response.status(HttpResponseStatus.OK),
+                                    Mono.just("{\"price\": 1.0, \"currency\": \"USD\", \"available\": true}")
+                                            .delayElement(Duration.ofSeconds(5))
+                                            .doOnCancel(slowAnswerCancelled::countDown));
+                    }
+                }))
+                .bindNow();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.disposeNow();
+    }
+
+    @Test
+    void quotesAreFetchedDecodedAndDroppedOnErrorOrDeadline() throws InterruptedException {
+        WebClient webClient = WebClient.builder().baseUrl("http://127.0.0.1:" + server.port() + "/quotes").build();
+        WebClientEnrichmentProvider provider = new WebClientEnrichmentProvider("prices", Duration.ofMillis(300), webClient);
+        DestinationEnricher enricher = new DestinationEnricher(List.of(provider), Duration.ofSeconds(10), 0);
+
+        long start = System.nanoTime();
+        List<EnrichedDestination> ranked = enricher.enrich(List.of(BALI, CANCUN, KYOTO, NEW_YORK_CITY));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(countriesByDestination).containsOnly(
+                Map.entry("Bali", "Indonesia"),
+                Map.entry("Cancun", "Mexico"),
+                Map.entry("Kyoto", "Japan"),
+                Map.entry("New York City", "USA"));
+
+        assertThat(ranked).extracting(enriched -> enriched.getDestination().getName())
+                .containsExactly("Bali", "Cancun", "Kyoto", "New York City");
+        assertThat(ranked.get(0).getPrice()).isEqualTo(1450.0);
+        assertThat(ranked.get(0).getCurrency()).isEqualTo("USD");
+        assertThat(ranked.get(0).getAvailability()).isEqualTo(EnrichedDestination.Availability.AVAILABLE);
+        // The 503 and the answer past the deadline are both dropped
+        assertThat(ranked.get(1).getPrice()).isNull();
+        assertThat(ranked.get(1).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNKNOWN);
+        assertThat(ranked.get(2).getPrice()).isNull();
+        assertThat(ranked.get(2).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNKNOWN);
+        assertThat(ranked.get(3).getPrice()).isEqualTo(900.0);
+        assertThat(ranked.get(3).getAvailability()).isEqualTo(EnrichedDestination.Availability.UNAVAILABLE);
+
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_000));
+        // Missing the deadline cancels the request instead of leaving it running
+        assertThat(slowAnswerCancelled.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static Publisher<Void> json(HttpServerResponse response, Mono<String> body) {
+        return response.header("Content-Type", "application/json").sendString(body);
+    }
+}
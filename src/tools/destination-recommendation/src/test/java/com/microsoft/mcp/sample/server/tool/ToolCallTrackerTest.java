@@ -0,0 +1,148 @@
+package com.microsoft.mcp.sample.server.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ToolCallTrackerTest {
+
+    @Test
+    void countsCallsWithoutLimitingThem() throws Exception {
+        ToolCallTracker tracker = new ToolCallTracker(0, 32, Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+
+        BlockingCall first = BlockingCall.start(tracker, release);
+        BlockingCall second = BlockingCall.start(tracker, release);
+
+        assertThat(tracker.getInFlight()).isEqualTo(2);
+        assertThat(tracker.getQueueDepth()).isZero();
+        assertThat(tracker.isOverloaded()).isFalse();
+
+        release.countDown();
+        assertThat(first.result()).isEqualTo("done");
+        assertThat(second.result()).isEqualTo("done");
+        assertThat(tracker.getInFlight()).isZero();
+    }
+
+    @Test
+    void queuedCallRunsOnceSlotIsReleased() throws Exception {
+        ToolCallTracker tracker = new ToolCallTracker(1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingCall running = BlockingCall.start(tracker, release);
+
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> tracker.track(() -> "queued"));
+        awaitQueueDepth(tracker, 1);
+        release.countDown();
+
+        assertThat(running.result()).isEqualTo("done");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(tracker.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void queuedCallTimesOutWhenNoSlotIsReleased() throws Exception {
+        ToolCallTracker tracker = new ToolCallTracker(1, 1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingCall running = BlockingCall.start(tracker, release);
+
+        assertThatThrownBy(() -> tracker.track(() -> "timed out"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Timed out");
+        assertThat(tracker.getQueueDepth()).isZero();
+
+        release.countDown();
+        assertThat(running.result()).isEqualTo("done");
+    }
+
+    @Test
+    void fullQueueRejectsCallsAndReportsOverload() throws Exception {
+        ToolCallTracker tracker = new ToolCallTracker(1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingCall running = BlockingCall.start(tracker, release);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> tracker.track(() -> "queued"));
+        awaitQueueDepth(tracker, 1);
+
+        assertThat(tracker.isOverloaded()).isTrue();
+        assertThatThrownBy(() -> tracker.track(() -> "rejected"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Too many");
+
+        release.countDown();
+        assertThat(running.result()).isEqualTo("done");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(tracker.isOverloaded()).isFalse();
+    }
+
+    @Test
+    void zeroQueueDepthRejectsWithoutReportingOverload() throws Exception {
+        ToolCallTracker tracker = new ToolCallTracker(1, 0, Duration.ofSeconds(5));
+        assertThat(tracker.isOverloaded()).isFalse();
+
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingCall running = BlockingCall.start(tracker, release);
+
+        assertThatThrownBy(() -> tracker.track(() -> "rejected"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Too many");
+        assertThat(tracker.isOverloaded()).isFalse();
+
+        release.countDown();
+        assertThat(running.result()).isEqualTo("done");
+        assertThat(tracker.track(() -> "accepted")).isEqualTo("accepted");
+    }
+
+    @Test
+    void negativeLimitsAreRejected() {
+        assertThatThrownBy(() -> new ToolCallTracker(-1, 32, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ToolCallTracker(1, -1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ToolCallTracker(1, 32, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQueueDepth(ToolCallTracker tracker, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (tracker.getQueueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(tracker.getQueueDepth()).isEqualTo(depth);
+    }
+
+    /**
+     * A tracked call running on another thread until released.
+     */
+    private static class BlockingCall {
+        private final CompletableFuture<String> future;
+
+        private BlockingCall(CompletableFuture<String> future) {
+            this.future = future;
+        }
+
+        // Returns once the call holds its slot
+        static BlockingCall start(ToolCallTracker tracker, CountDownLatch release) throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> tracker.track(() -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "done";
+            }), runnable -> new Thread(runnable).start());
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            return new BlockingCall(future);
+        }
+
+        String result() throws Exception {
+            return future.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.microsoft.mcp.sample.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Local stand-in for a price/availability provider, for trying out enrichment.
+ * Answers every request with a random quote after a random delay, so deadlines,
+ * hedging and partial results can be observed.
+ *
+ * Usage: StubQuoteServer [port] [maxDelayMillis]
+ */
+public class StubQuoteServer {
+
+	public static void main(String[] args) {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 9001;
+		int maxDelayMillis = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+		DisposableServer server = HttpServer.create()
+				.port(port)
+				.route(routes -> routes.get("/quotes", (request, response) -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					String quote = String.format("{\"price\": %d, \"currency\": \"USD\", \"available\": %b}",
+							500 + random.nextInt(2500), random.nextInt(5) > 0);
+					return response.header("Content-Type", "application/json")
+							.sendString(Mono.just(quote).delayElement(Duration.ofMillis(random.nextInt(maxDelayMillis + 1))));
+				}))
+				.bindNow();
+
+		System.out.println("Stub quote provider listening on http://localhost:" + port + "/quotes");
+		server.onDispose().block();
+	}
+
+}